@@ -14,6 +14,10 @@ class BMPIconReader implements IconReader {
     public static final int BITMAPV3INFOHEADER_SIZE = 56;
     public static final int BITMAPHEADER_SIZE = 14;
     public static final byte[] MAGIC_NUMBERS_BMP = {0x42, 0x4d,};
+    /**
+     * Bmp images in an ico file start with the size of the BITMAPINFOHEADER (40).
+     */
+    private static final byte[] MAGIC_NUMBERS_DIB = {0x28, 0x00,};
 
     private BufferedImage processTransparency(BufferedImage bmpImage, int t_scanline_size, byte[] transparencyMap) {
         BufferedImage resultImage = new BufferedImage(bmpImage.getWidth(), bmpImage.getHeight(), BufferedImage.TYPE_INT_ARGB);
@@ -47,6 +51,11 @@ class BMPIconReader implements IconReader {
         return allAlphasZero;
     }
 
+    @Override
+    public byte[] getMagicNumbers() {
+        return MAGIC_NUMBERS_DIB.clone();
+    }
+
     @Override
     public BufferedImage readBufferedImage(int imageSize, final InputStream is) throws IOException, ImageReadException {
         ByteBuffer byteBuffer = ByteBuffer.wrap(is.readNBytes(imageSize)).order(ByteOrder.LITTLE_ENDIAN);
@@ -6,22 +6,25 @@ import java.io.IOException;
 import java.io.InputStream;
 
 public final class IconDetect {
-    public IconDetect() {}
+    private final IconReaderRegistry registry;
+
+    public IconDetect() {
+        this.registry = IconReaderRegistry.getDefault();
+    }
 
     /**
      * Attempts to determine the image format of a file based on its
      * "magic numbers," the first bytes of the data.
      * <p>Many graphics format specify identifying byte
      * values that appear at the beginning of the data file.  This method
-     * checks for such identifying elements and returns a ImageFormat
-     * enumeration indicating what it detects. Note that this
+     * reads the first two bytes and returns the IconReader registered
+     * for them in the {@link IconReaderRegistry}. Note that this
      * method can return "false positives" in cases where non-image files
      * begin with the specified byte values.
      *
      * @param inputStream Input stream containing an image file.
-     * @return An ImageFormat, such as ImageFormat.IMAGE_FORMAT_JPEG. Returns
-     * ImageFormat.IMAGE_FORMAT_UNKNOWN if the image type cannot be
-     * determined.
+     * @return The IconReader registered for the magic numbers, or the bmp
+     * reader if no reader is registered for them.
      * @throws ImageReadException in the event of an unsuccessful
      *                            attempt to read the image data
      * @throws IOException        in the event of an unrecoverable I/O condition.
@@ -36,10 +39,6 @@ public final class IconDetect {
                     "Couldn't guess format.");
         }
 
-        if (0x89 == (i1 & 0xff) && 0x50 == (i2 & 0xff)) {
-            return new PNGIconReader();
-        }
-
-        return new BMPIconReader();
+        return registry.lookup(i1, i2);
     }
 }
@@ -6,7 +6,27 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * Reads a single image embedded in an .ico file.
+ * <p>Implementations can be plugged in by listing them as a provider of
+ * {@code jico.image.IconReader}, either with a {@code provides} clause in
+ * {@code module-info.java} or in {@code META-INF/services/jico.image.IconReader}.
+ * Discovered readers take precedence over the built-in readers for the same
+ * magic numbers. If several discovered readers have the same magic numbers
+ * the first one found is used, the others are skipped and logged as a
+ * warning. Discovery happens once, only readers visible to the class
+ * loader which loaded jico are found.
+ * <p>A single instance is shared for every image read, implementations
+ * must therefore be stateless and thread safe.
+ */
 public interface IconReader {
+    /**
+     * The first two bytes of the image data this reader can handle.
+     *
+     * @return A new array containing exactly two bytes.
+     */
+    byte[] getMagicNumbers();
+
     BufferedImage readBufferedImage(int size, InputStream inputStream)
             throws ImageReadException, IOException;
 }
@@ -0,0 +1,123 @@
+package jico.image;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Maps the magic numbers of an image to the {@link IconReader} that can read it.
+ * <p>The default registry is resolved once, it contains the built-in readers
+ * and every reader discovered with {@link ServiceLoader}. Readers which fail
+ * to load or specify invalid magic numbers are skipped and logged as a warning.
+ */
+public final class IconReaderRegistry {
+    private static final int MAGIC_NUMBERS_SIZE = 2;
+
+    /**
+     * Readers indexed on the first and second magic number, the second level
+     * is only allocated for first bytes which have a reader. Looking up a
+     * reader does not allocate.
+     */
+    private final IconReader[][] readers = new IconReader[256][];
+    private final IconReader fallback;
+
+    IconReaderRegistry(IconReader fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Gets the registry with the built-in and all discovered readers.
+     *
+     * @return The shared registry.
+     */
+    public static IconReaderRegistry getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Registers a reader on its magic numbers, unless a reader is already
+     * registered on them.
+     *
+     * @param reader The reader to register.
+     * @return The reader registered on the magic numbers, which is not the
+     * given reader if another reader was already registered.
+     */
+    IconReader register(IconReader reader) {
+        final byte[] magicNumbers = reader.getMagicNumbers();
+        if (magicNumbers == null || magicNumbers.length != MAGIC_NUMBERS_SIZE) {
+            throw new IllegalArgumentException("Reader " + reader.getClass().getName()
+                    + " must specify exactly " + MAGIC_NUMBERS_SIZE + " magic numbers");
+        }
+
+        final int i1 = magicNumbers[0] & 0xff;
+        final int i2 = magicNumbers[1] & 0xff;
+        if (readers[i1] == null) {
+            readers[i1] = new IconReader[256];
+        }
+        if (readers[i1][i2] == null) {
+            readers[i1][i2] = reader;
+        }
+        return readers[i1][i2];
+    }
+
+    /**
+     * Gets the reader for an image starting with the given bytes.
+     *
+     * @param i1 The first byte of the image.
+     * @param i2 The second byte of the image.
+     * @return The reader registered for these bytes, or the fallback reader
+     * of this registry if there is none. The fallback reader of the default
+     * registry is the bmp reader.
+     */
+    public IconReader lookup(int i1, int i2) {
+        final IconReader[] second = readers[i1 & 0xff];
+        if (second == null) {
+            return fallback;
+        }
+        final IconReader reader = second[i2 & 0xff];
+        return reader != null ? reader : fallback;
+    }
+
+    private static final class DefaultHolder {
+        private static final System.Logger LOGGER = System.getLogger(IconReaderRegistry.class.getName());
+        private static final IconReaderRegistry INSTANCE = load();
+
+        private static IconReaderRegistry load() {
+            final BMPIconReader bmpIconReader = new BMPIconReader();
+            final IconReaderRegistry registry = new IconReaderRegistry(bmpIconReader);
+
+            final Iterator<ServiceLoader.Provider<IconReader>> providers =
+                    ServiceLoader.load(IconReader.class, IconReader.class.getClassLoader()).stream().iterator();
+            while (true) {
+                // A broken plugin must not take down the built-in readers, skip it.
+                final ServiceLoader.Provider<IconReader> provider;
+                try {
+                    if (!providers.hasNext()) {
+                        break;
+                    }
+                    provider = providers.next();
+                } catch (ServiceConfigurationError | LinkageError e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Skipping IconReader which could not be loaded", e);
+                    continue;
+                }
+
+                try {
+                    final IconReader reader = provider.get();
+                    final IconReader registered = registry.register(reader);
+                    if (registered != reader) {
+                        LOGGER.log(System.Logger.Level.WARNING, "Skipping IconReader {0}, {1} already reads its magic numbers",
+                                provider.type().getName(), registered.getClass().getName());
+                    }
+                } catch (ServiceConfigurationError | LinkageError | RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Skipping IconReader " + provider.type().getName(), e);
+                }
+            }
+
+            // Registered after the plugins, which take precedence.
+            registry.register(bmpIconReader);
+            registry.register(new PNGIconReader());
+
+            return registry;
+        }
+    }
+}
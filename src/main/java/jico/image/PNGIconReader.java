@@ -7,6 +7,13 @@ import java.io.IOException;
 import java.io.InputStream;
 
 class PNGIconReader implements IconReader {
+    private static final byte[] MAGIC_NUMBERS_PNG = {(byte) 0x89, 0x50,};
+
+    @Override
+    public byte[] getMagicNumbers() {
+        return MAGIC_NUMBERS_PNG.clone();
+    }
+
     @Override
     public BufferedImage readBufferedImage(int imageSize, final InputStream is) throws IOException {
         return ImageIO.read(new BufferedInputStream(is, imageSize));
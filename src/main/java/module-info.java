@@ -1,5 +1,8 @@
 module jico {
-    requires java.desktop;
+    requires transitive java.desktop;
 
     exports jico;
-}
\ No newline at end of file
+    exports jico.image;
+
+    uses jico.image.IconReader;
+}
@@ -1,15 +1,20 @@
 import jico.Ico;
 import jico.ImageReadException;
+import jico.image.IconReaderRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBuffer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Objects;
 
@@ -126,4 +131,40 @@ public class TestIco {
             Assertions.assertEquals("Not valid, reserved is -9985", ex.getMessage());
         }
     }
+
+    /**
+     * Readers listed in META-INF/services are discovered by the default registry.
+     */
+    @Test
+    public void testReaderDiscovered() {
+        Assertions.assertInstanceOf(TestIconReader.class, IconReaderRegistry.getDefault().lookup(0x01, 0x02));
+    }
+
+    /**
+     * The built-in readers are registered on the png and bmp magic numbers.
+     */
+    @Test
+    public void testBuiltInReaders() throws IOException, ImageReadException {
+        IconReaderRegistry registry = IconReaderRegistry.getDefault();
+        BufferedImage bmpImage = ImageIO.read(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("bmp.bmp")));
+
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(bmpImage, "png", png);
+        BufferedImage pngImage = registry.lookup(0x89, 0x50)
+                .readBufferedImage(png.size(), new ByteArrayInputStream(png.toByteArray()));
+
+        Assertions.assertEquals(bmpImage.getWidth(), pngImage.getWidth());
+        Assertions.assertEquals(bmpImage.getHeight(), pngImage.getHeight());
+
+        // bmp.ico contains a single image, its ICONDIRENTRY specifies the size and offset.
+        ByteBuffer ico = ByteBuffer.wrap(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("bmp.ico")).readAllBytes())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        int imageSize = ico.getInt(14);
+        int imageOffset = ico.getInt(18);
+        BufferedImage dibImage = registry.lookup(0x28, 0x00)
+                .readBufferedImage(imageSize, new ByteArrayInputStream(ico.array(), imageOffset, imageSize));
+
+        Assertions.assertEquals(bmpImage.getWidth(), dibImage.getWidth());
+        Assertions.assertEquals(bmpImage.getHeight(), dibImage.getHeight());
+    }
 }
@@ -0,0 +1,19 @@
+import jico.image.IconReader;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+
+/**
+ * IconReader plugin registered in META-INF/services, used to test discovery.
+ */
+public class TestIconReader implements IconReader {
+    @Override
+    public byte[] getMagicNumbers() {
+        return new byte[]{0x01, 0x02};
+    }
+
+    @Override
+    public BufferedImage readBufferedImage(int size, InputStream inputStream) {
+        return new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+    }
+}